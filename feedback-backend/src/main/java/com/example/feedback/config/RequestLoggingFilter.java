@@ -1,11 +1,19 @@
 package com.example.feedback.config;
 
+import com.example.feedback.jfr.RequestEvent;
+import com.example.feedback.jfr.RequestIds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.CommonsRequestLoggingFilter;
 
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 
 @Component
 public class RequestLoggingFilter extends CommonsRequestLoggingFilter {
@@ -21,6 +29,45 @@ public class RequestLoggingFilter extends CommonsRequestLoggingFilter {
         setAfterMessagePrefix("REQUEST DATA : ");
     }
 
+    // Assign a request id and time the whole request as a Flight Recorder event. Requests that went async
+    // (the SSE stream) leave the filter as soon as the handler returns, so their timing is not recorded.
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = RequestIds.resolve(request.getHeader(RequestIds.HEADER));
+        MDC.put(RequestIds.MDC_KEY, requestId);
+        response.setHeader(RequestIds.HEADER, requestId);
+
+        // Time the downstream chain so the filter's own work can be told apart from it
+        long[] chainNanos = new long[1];
+        FilterChain timedChain = (chainRequest, chainResponse) -> {
+            long chainStart = System.nanoTime();
+            try {
+                filterChain.doFilter(chainRequest, chainResponse);
+            } finally {
+                chainNanos[0] = System.nanoTime() - chainStart;
+            }
+        };
+
+        RequestEvent event = new RequestEvent();
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            super.doFilterInternal(request, response, timedChain);
+        } finally {
+            event.end();
+            if (!request.isAsyncStarted() && event.shouldCommit()) {
+                event.filterTime = System.nanoTime() - start - chainNanos[0];
+                event.requestId = requestId;
+                event.method = request.getMethod();
+                event.path = request.getRequestURI();
+                event.status = response.getStatus();
+                event.commit();
+            }
+            MDC.remove(RequestIds.MDC_KEY);
+        }
+    }
+
     @Override
     protected void beforeRequest(HttpServletRequest request, String message) {
         // No logging before request
@@ -3,21 +3,31 @@ package com.example.feedback.controller;
 import com.example.feedback.dto.FeedbackRequest;
 import com.example.feedback.dto.FeedbackResponse;
 import com.example.feedback.service.FeedbackService;
+import com.example.feedback.service.FeedbackStreamService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/feedbacks")
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final FeedbackStreamService feedbackStreamService;
 
-    public FeedbackController(FeedbackService feedbackService) {
+    public FeedbackController(FeedbackService feedbackService, FeedbackStreamService feedbackStreamService) {
         this.feedbackService = feedbackService;
+        this.feedbackStreamService = feedbackStreamService;
     }
 
     @PostMapping
     public FeedbackResponse submitFeedback(@Valid @RequestBody FeedbackRequest feedbackRequest) {
         return feedbackService.submitFeedback(feedbackRequest);
     }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeedbacks(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return feedbackStreamService.subscribe(lastEventId);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.feedback.exception;
 
+import com.example.feedback.jfr.ExceptionHandledEvent;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,6 +15,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        ExceptionHandledEvent.record(ex, HttpStatus.BAD_REQUEST.value());
         String message = ex.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         Map<String, Object> body = Map.of(
                 "status", HttpStatus.BAD_REQUEST.value(),
@@ -25,6 +27,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Map<String, Object>> handleResponseStatusException(ResponseStatusException ex) {
+        ExceptionHandledEvent.record(ex, ex.getStatusCode().value());
         Map<String, Object> body = Map.of(
                 "status", ex.getStatusCode().value(),
                 "error", ex.getStatusCode().value() == 400 ? "Bad Request" : "Error",
@@ -35,6 +38,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
+        ExceptionHandledEvent.record(ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         Map<String, Object> body = Map.of(
                 "status", 500,
                 "error", "Internal Service Error",
@@ -0,0 +1,24 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event timing how long it took to obtain a JDBC connection, including any connection-pool wait.
+ */
+@Name(ConnectionAcquireEvent.NAME)
+@Label("Connection Acquire")
+@Category({"Feedback App", "Database"})
+@Description("Time spent in DataSource.getConnection, including waiting for a pooled connection")
+@StackTrace(false)
+public class ConnectionAcquireEvent extends Event {
+
+    public static final String NAME = "com.example.feedback.ConnectionAcquire";
+
+    @Label("Request Id")
+    public String requestId;
+}
@@ -0,0 +1,46 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when {@code GlobalExceptionHandler} turns an exception into an error response.
+ */
+@Name(ExceptionHandledEvent.NAME)
+@Label("Exception Handled")
+@Category({"Feedback App", "Error"})
+@Description("Exception mapped to an error response by the global exception handler")
+@StackTrace(false)
+public class ExceptionHandledEvent extends Event {
+
+    public static final String NAME = "com.example.feedback.ExceptionHandled";
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Exception Class")
+    public String exceptionClass;
+
+    @Label("Status")
+    public int status;
+
+    /**
+     * Records that the given exception was mapped to the given response status.
+     *
+     * @param ex     the handled exception
+     * @param status the HTTP status returned to the client
+     */
+    public static void record(Exception ex, int status) {
+        ExceptionHandledEvent event = new ExceptionHandledEvent();
+        if (event.shouldCommit()) {
+            event.requestId = RequestIds.current();
+            event.exceptionClass = ex.getClass().getName();
+            event.status = status;
+            event.commit();
+        }
+    }
+}
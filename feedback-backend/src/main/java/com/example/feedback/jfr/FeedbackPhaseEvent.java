@@ -0,0 +1,64 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event timing one phase of a feedback submission (the whole submit, validation, or save).
+ * <p>
+ * Typical use:
+ * <pre>
+ *     FeedbackPhaseEvent event = FeedbackPhaseEvent.start(FeedbackPhaseEvent.VALIDATE);
+ *     try {
+ *         ...
+ *     } finally {
+ *         event.finish();
+ *     }
+ * </pre>
+ */
+@Name(FeedbackPhaseEvent.NAME)
+@Label("Feedback Phase")
+@Category({"Feedback App", "Service"})
+@Description("Time spent in a phase of FeedbackService.submitFeedback")
+@StackTrace(false)
+public class FeedbackPhaseEvent extends Event {
+
+    public static final String NAME = "com.example.feedback.FeedbackPhase";
+    public static final String SUBMIT = "submit";
+    public static final String VALIDATE = "validate";
+    public static final String SAVE = "save";
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Phase")
+    public String phase;
+
+    /**
+     * Creates and begins timing an event for the given phase of the current request.
+     *
+     * @param phase the phase being timed
+     * @return the started event
+     */
+    public static FeedbackPhaseEvent start(String phase) {
+        FeedbackPhaseEvent event = new FeedbackPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if the recording asks for it.
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            requestId = RequestIds.current();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.feedback.jfr;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Actuator endpoint controlling the rolling Flight Recorder recording.
+ * <ul>
+ *     <li>{@code GET /actuator/flightrecorder} returns the recording status</li>
+ *     <li>{@code POST /actuator/flightrecorder/start} starts the recording</li>
+ *     <li>{@code POST /actuator/flightrecorder/stop} stops the recording, keeping its data for a later dump</li>
+ *     <li>{@code POST /actuator/flightrecorder/dump} writes the running or stopped recording to a {@code .jfr} file on the server</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecorderEndpoint(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return flightRecorderService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(@Selector String action) throws IOException {
+        switch (action) {
+            case "start":
+                return flightRecorderService.start();
+            case "stop":
+                return flightRecorderService.stop();
+            case "dump":
+                try {
+                    Path file = flightRecorderService.dump();
+                    Map<String, Object> status = flightRecorderService.status();
+                    status.put("file", file.toString());
+                    return status;
+                } catch (IllegalStateException ex) {
+                    throw new InvalidEndpointRequestException(ex.getMessage(), ex.getMessage());
+                }
+            default:
+                throw new InvalidEndpointRequestException("Unknown action: " + action, "Unknown action");
+        }
+    }
+}
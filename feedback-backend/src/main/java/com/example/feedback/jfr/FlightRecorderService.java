@@ -0,0 +1,192 @@
+package com.example.feedback.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manages a single rolling JDK Flight Recorder recording for the application.
+ * <p>
+ * The recording uses the JDK's low-overhead {@code default} settings and only keeps the most
+ * recent data (bounded by {@code feedback.jfr.max-age} and {@code feedback.jfr.max-size}), so it
+ * can stay on in production and be dumped when a latency spike needs investigating. Only the newest
+ * {@code feedback.jfr.max-dumps} dump files are kept in the dump directory.
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+    private static final String RECORDING_NAME = "feedback-app";
+    private static final String DUMP_GLOB = RECORDING_NAME + "-*.jfr";
+    private static final DateTimeFormatter DUMP_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final boolean startOnBoot;
+    private final String settings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDirectory;
+    private final int maxDumps;
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${feedback.jfr.enabled:true}") boolean startOnBoot,
+                                 @Value("${feedback.jfr.settings:default}") String settings,
+                                 @Value("${feedback.jfr.max-age:30m}") Duration maxAge,
+                                 @Value("${feedback.jfr.max-size:100MB}") DataSize maxSize,
+                                 @Value("${feedback.jfr.dump-dir:${java.io.tmpdir}/feedback-jfr}") Path dumpDirectory,
+                                 @Value("${feedback.jfr.max-dumps:5}") int maxDumps) {
+        this.startOnBoot = startOnBoot;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dumpDirectory = dumpDirectory;
+        this.maxDumps = maxDumps;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void startOnBoot() {
+        if (startOnBoot) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the rolling recording, or does nothing if it is already running.
+     * <p>
+     * A previously stopped recording is discarded and replaced by a new one.
+     *
+     * @return the recording status
+     * @throws IllegalStateException if the configured JFR settings cannot be loaded
+     */
+    public synchronized Map<String, Object> start() {
+        if (isRunning()) {
+            return status();
+        }
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Unable to load JFR settings '" + settings + "'", ex);
+        }
+        try {
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSize.toBytes());
+            newRecording.start();
+        } catch (RuntimeException ex) {
+            newRecording.close();
+            throw ex;
+        }
+        closeRecording();
+        recording = newRecording;
+        logger.info("Started JFR recording with '{}' settings, max age {}, max size {}", settings, maxAge, maxSize);
+        return status();
+    }
+
+    /**
+     * Stops the recording. Its data is kept and can still be dumped until the next {@link #start()}.
+     *
+     * @return the recording status
+     */
+    public synchronized Map<String, Object> stop() {
+        if (isRunning()) {
+            recording.stop();
+            logger.info("Stopped JFR recording");
+        }
+        return status();
+    }
+
+    /**
+     * Writes the data held by the running or stopped recording to a new file in the dump directory,
+     * deleting the oldest dumps so that at most {@code feedback.jfr.max-dumps} remain.
+     *
+     * @return the path of the written {@code .jfr} file
+     * @throws IllegalStateException if no recording has been started
+     * @throws IOException           if the file cannot be written
+     */
+    public synchronized Path dump() throws IOException {
+        if (!isRunning() && !isStopped()) {
+            throw new IllegalStateException("No JFR recording has been started");
+        }
+        Files.createDirectories(dumpDirectory);
+        deleteOldDumps(maxDumps - 1);
+        Path file = dumpDirectory.resolve(RECORDING_NAME + "-" + DUMP_TIMESTAMP.format(Instant.now()) + ".jfr");
+        recording.dump(file);
+        logger.info("Dumped JFR recording to {}", file);
+        return file;
+    }
+
+    /**
+     * @return the state and limits of the recording
+     */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NOT_STARTED");
+        status.put("settings", settings);
+        status.put("maxAge", maxAge.toString());
+        status.put("maxSize", maxSize.toString());
+        status.put("dumpDirectory", dumpDirectory.toString());
+        status.put("maxDumps", maxDumps);
+        if (recording != null && recording.getStartTime() != null) {
+            status.put("startTime", recording.getStartTime().toString());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        closeRecording();
+    }
+
+    private void deleteOldDumps(int keep) throws IOException {
+        List<Path> dumps = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dumpDirectory, DUMP_GLOB)) {
+            stream.forEach(dumps::add);
+        }
+        // Timestamped names sort oldest first
+        Collections.sort(dumps);
+        for (int i = 0; i < dumps.size() - Math.max(keep, 0); i++) {
+            Files.deleteIfExists(dumps.get(i));
+            logger.info("Deleted old JFR dump {}", dumps.get(i));
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private boolean isStopped() {
+        return recording != null && recording.getState() == RecordingState.STOPPED;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.feedback.jfr;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * {@link DataSource} wrapper that emits a {@link ConnectionAcquireEvent} for every connection it hands out.
+ */
+public class JfrDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public JfrDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+        event.begin();
+        try {
+            return super.getConnection();
+        } finally {
+            commit(event);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+        event.begin();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            commit(event);
+        }
+    }
+
+    // Lets the container's inferred destroy method still shut down the wrapped pool
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void commit(ConnectionAcquireEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.requestId = RequestIds.current();
+            event.commit();
+        }
+    }
+}
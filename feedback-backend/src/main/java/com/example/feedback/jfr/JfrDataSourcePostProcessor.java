@@ -0,0 +1,21 @@
+package com.example.feedback.jfr;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} bean in a {@link JfrDataSource} so connection-pool waits are recorded.
+ */
+@Component
+public class JfrDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof JfrDataSource)) {
+            return new JfrDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Offline analyzer summarizing per-phase latency from a {@code .jfr} file dumped by the application.
+ * <p>
+ * Usage:
+ * <pre>
+ *     java -cp target/classes com.example.feedback.jfr.JfrPhaseAnalyzer feedback-app-20260101-120000.jfr
+ * </pre>
+ * Prints count, p50, p95, p99 and max for whole requests and the request filter's own work (both per
+ * method and path), connection acquisition and each {@link FeedbackPhaseEvent} phase, followed by the number of exceptions handled
+ * per exception class and status.
+ * <p>
+ * Connection acquisitions are matched to the save phase of the same request and thread, so the save
+ * phase is also reported without connection-pool waits ({@value #SAVE_EXCLUDING_CONNECTION_KEY}),
+ * which leaves the Hibernate insert, flush and commit.
+ */
+public final class JfrPhaseAnalyzer {
+
+    static final String REQUEST_KEY_PREFIX = "request ";
+    static final String FILTER_KEY_PREFIX = "filter ";
+    static final String CONNECTION_ACQUIRE_KEY = "connection-acquire";
+    static final String PHASE_KEY_PREFIX = "phase:";
+    static final String SAVE_EXCLUDING_CONNECTION_KEY = PHASE_KEY_PREFIX + FeedbackPhaseEvent.SAVE + "-db";
+
+    private JfrPhaseAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrPhaseAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+        System.out.print(analyze(Path.of(args[0])).format());
+    }
+
+    /**
+     * Reads the application's custom events from a recording file.
+     *
+     * @param file the {@code .jfr} file to read
+     * @return the latency and error summary
+     * @throws IOException if the file cannot be read or is not a valid recording
+     */
+    public static Summary analyze(Path file) throws IOException {
+        Map<String, List<Long>> durations = new TreeMap<>();
+        Map<String, Integer> errors = new TreeMap<>();
+        List<RecordedEvent> saves = new ArrayList<>();
+        Map<String, List<RecordedEvent>> acquiresByRequest = new HashMap<>();
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                switch (event.getEventType().getName()) {
+                    case RequestEvent.NAME:
+                        String endpoint = event.getString("method") + " " + event.getString("path");
+                        add(durations, REQUEST_KEY_PREFIX + endpoint, event.getDuration());
+                        add(durations, FILTER_KEY_PREFIX + endpoint, event.getDuration("filterTime"));
+                        break;
+                    case FeedbackPhaseEvent.NAME:
+                        add(durations, PHASE_KEY_PREFIX + event.getString("phase"), event.getDuration());
+                        if (FeedbackPhaseEvent.SAVE.equals(event.getString("phase"))) {
+                            saves.add(event);
+                        }
+                        break;
+                    case ConnectionAcquireEvent.NAME:
+                        add(durations, CONNECTION_ACQUIRE_KEY, event.getDuration());
+                        acquiresByRequest.computeIfAbsent(correlationKey(event), key -> new ArrayList<>()).add(event);
+                        break;
+                    case ExceptionHandledEvent.NAME:
+                        errors.merge(event.getString("exceptionClass") + " (" + event.getInt("status") + ")", 1, Integer::sum);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        for (RecordedEvent save : saves) {
+            Duration acquire = Duration.ZERO;
+            for (RecordedEvent candidate : acquiresByRequest.getOrDefault(correlationKey(save), List.of())) {
+                if (!candidate.getStartTime().isBefore(save.getStartTime()) && !candidate.getEndTime().isAfter(save.getEndTime())) {
+                    acquire = acquire.plus(candidate.getDuration());
+                }
+            }
+            add(durations, SAVE_EXCLUDING_CONNECTION_KEY, save.getDuration().minus(acquire));
+        }
+
+        Map<String, LatencyStats> latencies = new TreeMap<>();
+        durations.forEach((key, values) -> latencies.put(key, LatencyStats.of(values)));
+        return new Summary(latencies, errors);
+    }
+
+    private static void add(Map<String, List<Long>> durations, String key, Duration duration) {
+        durations.computeIfAbsent(key, k -> new ArrayList<>()).add(duration.toNanos());
+    }
+
+    // Events of one request on one thread; connection acquisition always happens on the thread doing the save
+    private static String correlationKey(RecordedEvent event) {
+        long threadId = event.getThread() != null ? event.getThread().getJavaThreadId() : -1;
+        return event.getString("requestId") + "@" + threadId;
+    }
+
+    /**
+     * Latency distribution of a single phase.
+     */
+    public record LatencyStats(int count, Duration p50, Duration p95, Duration p99, Duration max) {
+
+        static LatencyStats of(List<Long> nanos) {
+            List<Long> sorted = new ArrayList<>(nanos);
+            Collections.sort(sorted);
+            return new LatencyStats(sorted.size(), percentile(sorted, 50), percentile(sorted, 95),
+                    percentile(sorted, 99), Duration.ofNanos(sorted.get(sorted.size() - 1)));
+        }
+
+        // Nearest-rank percentile over an ascending list
+        private static Duration percentile(List<Long> sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+            return Duration.ofNanos(sorted.get(Math.max(rank, 1) - 1));
+        }
+    }
+
+    /**
+     * Result of analyzing a recording.
+     *
+     * @param latencies latency per phase, keyed by {@code "request <method> <path>"}, {@code "filter <method> <path>"},
+     *                  {@code "connection-acquire"} or {@code "phase:<name>"}
+     * @param errors    number of handled exceptions, keyed by exception class and status
+     */
+    public record Summary(Map<String, LatencyStats> latencies, Map<String, Integer> errors) {
+
+        /**
+         * @return the summary as a human-readable table
+         */
+        public String format() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("%-40s %8s %12s %12s %12s %12s%n", "PHASE", "COUNT", "P50 (ms)", "P95 (ms)", "P99 (ms)", "MAX (ms)"));
+            latencies.forEach((key, stats) -> out.append(String.format("%-40s %8d %12.3f %12.3f %12.3f %12.3f%n",
+                    key, stats.count(), millis(stats.p50()), millis(stats.p95()), millis(stats.p99()), millis(stats.max()))));
+            if (!errors.isEmpty()) {
+                out.append(String.format("%nHANDLED EXCEPTIONS%n"));
+                errors.forEach((key, count) -> out.append(String.format("%-60s %8d%n", key, count)));
+            }
+            return out.toString();
+        }
+
+        private static double millis(Duration duration) {
+            return duration.toNanos() / 1_000_000.0;
+        }
+    }
+}
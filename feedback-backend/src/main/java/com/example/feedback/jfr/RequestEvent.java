@@ -0,0 +1,41 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event spanning a whole HTTP request, emitted by {@code RequestLoggingFilter}.
+ * <p>
+ * {@link #filterTime} holds the filter's own share of the duration (payload caching, message building
+ * and masking), i.e. everything outside the downstream filter chain.
+ */
+@Name(RequestEvent.NAME)
+@Label("HTTP Request")
+@Category({"Feedback App", "Request"})
+@Description("Time spent handling an HTTP request, including filters")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    public static final String NAME = "com.example.feedback.Request";
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Filter Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long filterTime;
+}
@@ -0,0 +1,43 @@
+package com.example.feedback.jfr;
+
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
+/**
+ * Request id used to correlate log lines and Flight Recorder events belonging to the same HTTP request.
+ * <p>
+ * The id is assigned by {@code RequestLoggingFilter} and kept in the SLF4J {@link MDC} for the
+ * duration of the request, so any code running on the request thread can read it.
+ */
+public final class RequestIds {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+    private static final int MAX_LENGTH = 64;
+
+    private RequestIds() {
+    }
+
+    /**
+     * Returns the client supplied id if it is usable, otherwise a newly generated one.
+     *
+     * @param candidate the value of the {@value #HEADER} header, may be {@code null}
+     * @return the request id to use
+     */
+    public static String resolve(String candidate) {
+        if (candidate != null && !candidate.isBlank() && candidate.length() <= MAX_LENGTH
+                && candidate.matches("[A-Za-z0-9._-]+")) {
+            return candidate;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * @return the id of the request being handled on this thread, or {@code "N/A"} outside a request
+     */
+    public static String current() {
+        String requestId = MDC.get(MDC_KEY);
+        return requestId != null ? requestId : "N/A";
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.feedback.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring buffer holding the most recently submitted feedback entries.
+ * <p>
+ * Every entry is tagged with a monotonically increasing sequence number. The SSE event id is
+ * {@code <epoch>-<sequence>}, where the epoch is fixed when the buffer is created, so an id issued
+ * before a restart or by another node is recognised as foreign instead of being mistaken for a
+ * position in this buffer. Readers keep their own cursor (the last sequence they have seen) and pull
+ * from the buffer, so a single copy of each event is shared by all subscribers and memory
+ * stays bounded by the buffer capacity regardless of how many subscribers are connected.
+ */
+@Component
+public class FeedbackEventBuffer {
+
+    private final int capacity;
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicReferenceArray<Entry> slots;
+    private volatile long head;
+
+    public FeedbackEventBuffer(@Value("${feedback.stream.buffer-size:1024}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Appends a feedback entry, overwriting the oldest one once the buffer is full.
+     *
+     * @param data the feedback already rendered as the SSE {@code data} payload
+     * @return the sequence number assigned to the entry
+     */
+    public synchronized long publish(String data) {
+        long sequence = head + 1;
+        slots.set(indexOf(sequence), new Entry(sequence, data));
+        head = sequence;
+        return sequence;
+    }
+
+    /**
+     * Returns up to {@code maxEntries} entries published after the given cursor, oldest first.
+     * <p>
+     * If the cursor has fallen behind the oldest retained entry, the reader is skipped ahead
+     * to the oldest entry still available; the overwritten entries are not recoverable.
+     *
+     * @param cursor     the last sequence number the reader has seen
+     * @param maxEntries the maximum number of entries to return
+     * @return the entries after the cursor, or an empty list if the reader is up to date
+     */
+    public List<Entry> readAfter(long cursor, int maxEntries) {
+        long last = head;
+        long first = Math.max(cursor + 1, oldestSequence(last));
+        if (first > last) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>((int) Math.min(maxEntries, last - first + 1));
+        for (long sequence = first; sequence <= last && entries.size() < maxEntries; sequence++) {
+            Entry entry = slots.get(indexOf(sequence));
+            // The writer may have lapped us while reading; skip the slot rather than return a newer entry out of order
+            if (entry != null && entry.sequence() == sequence) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the cursor a client resuming from the given {@code Last-Event-ID} should start at.
+     * <ul>
+     *     <li>no id, or one that cannot be parsed: the current head, so only new entries are delivered</li>
+     *     <li>an id from this buffer: its sequence, so every later entry still retained is replayed</li>
+     *     <li>an id from another epoch (a restart or another node): just before the oldest retained entry,
+     *     so everything still buffered is replayed</li>
+     * </ul>
+     *
+     * @param lastEventId the value of the client's {@code Last-Event-ID} header, may be {@code null}
+     * @return the cursor to read after
+     */
+    public long resumeCursor(String lastEventId) {
+        long last = head;
+        if (lastEventId == null) {
+            return last;
+        }
+        int separator = lastEventId.indexOf('-');
+        long idEpoch;
+        long sequence;
+        try {
+            idEpoch = Long.parseLong(lastEventId.substring(0, Math.max(separator, 0)));
+            sequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return last;
+        }
+        if (idEpoch != epoch) {
+            return oldestSequence(last) - 1;
+        }
+        return Math.min(Math.max(sequence, 0), last);
+    }
+
+    /**
+     * @param sequence the sequence number of an entry
+     * @return the SSE event id for the entry
+     */
+    public String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * @return the epoch embedded in every event id issued by this buffer
+     */
+    public long epoch() {
+        return epoch;
+    }
+
+    /**
+     * @return the sequence number of the most recently published entry, or 0 if nothing has been published
+     */
+    public long head() {
+        return head;
+    }
+
+    /**
+     * @return the sequence number of the oldest entry still retained in the buffer
+     */
+    public long oldestSequence() {
+        return oldestSequence(head);
+    }
+
+    private long oldestSequence(long last) {
+        return Math.max(1, last - capacity + 1);
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    /**
+     * A single buffered feedback event.
+     *
+     * @param sequence the sequence number, used in the SSE event id
+     * @param data     the feedback rendered as JSON, shared by every subscriber
+     */
+    public record Entry(long sequence, String data) {
+    }
+}
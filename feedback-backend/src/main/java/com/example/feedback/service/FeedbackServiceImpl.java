@@ -2,9 +2,11 @@ package com.example.feedback.service;
 
 import com.example.feedback.dto.FeedbackResponse;
 import com.example.feedback.dto.FeedbackRequest;
+import com.example.feedback.jfr.FeedbackPhaseEvent;
 import com.example.feedback.model.Feedback;
 import com.example.feedback.repository.FeedbackRepository;
 import org.assertj.core.util.VisibleForTesting;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -16,13 +18,18 @@ public class FeedbackServiceImpl implements FeedbackService {
 
     private static final Logger logger = LoggerFactory.getLogger(FeedbackServiceImpl.class);
     private final FeedbackRepository feedbackRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public FeedbackServiceImpl(FeedbackRepository feedbackRepository) {
+    public FeedbackServiceImpl(FeedbackRepository feedbackRepository, ApplicationEventPublisher eventPublisher) {
         this.feedbackRepository = feedbackRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Submits a new feedback entry after validation and persists it to the database.
+     * <p>
+     * A {@link FeedbackSubmittedEvent} is published for the live feedback stream once the entry is committed.
+     * The submission and its validate and save phases are timed as {@link FeedbackPhaseEvent}s.
      *
      * @param feedbackRequest the feedback request containing user input (name, email, message)
      * @return a {@link FeedbackResponse} containing the persisted feedback details
@@ -30,26 +37,45 @@ public class FeedbackServiceImpl implements FeedbackService {
      */
     @Override
     public FeedbackResponse submitFeedback(FeedbackRequest feedbackRequest) {
-        String maskedEmail = maskEmail(feedbackRequest.getEmail());
-        logger.info("Received feedback request from email: {}", maskedEmail);
+        FeedbackPhaseEvent submitPhase = FeedbackPhaseEvent.start(FeedbackPhaseEvent.SUBMIT);
+        try {
+            String maskedEmail = maskEmail(feedbackRequest.getEmail());
+            logger.info("Received feedback request from email: {}", maskedEmail);
+
+            FeedbackPhaseEvent validatePhase = FeedbackPhaseEvent.start(FeedbackPhaseEvent.VALIDATE);
+            try {
+                validateFeedback(feedbackRequest, maskedEmail);
+            } finally {
+                validatePhase.finish();
+            }
 
-        validateFeedback(feedbackRequest, maskedEmail);
+            Feedback feedback = new Feedback();
+            feedback.setName(feedbackRequest.getName());
+            feedback.setEmail(feedbackRequest.getEmail());
+            feedback.setMessage(feedbackRequest.getMessage());
 
-        Feedback feedback = new Feedback();
-        feedback.setName(feedbackRequest.getName());
-        feedback.setEmail(feedbackRequest.getEmail());
-        feedback.setMessage(feedbackRequest.getMessage());
+            Feedback savedFeedback;
+            FeedbackPhaseEvent savePhase = FeedbackPhaseEvent.start(FeedbackPhaseEvent.SAVE);
+            try {
+                savedFeedback = feedbackRepository.save(feedback);
+            } finally {
+                savePhase.finish();
+            }
+            logger.info("Feedback saved successfully for user: {}", savedFeedback.getName());
+            logger.debug("Response DTO: id={}, name={}, message={}",
+                    savedFeedback.getId(), savedFeedback.getName(), savedFeedback.getMessage());
 
-        Feedback savedFeedback = feedbackRepository.save(feedback);
-        logger.info("Feedback saved successfully for user: {}", savedFeedback.getName());
-        logger.debug("Response DTO: id={}, name={}, message={}",
-                savedFeedback.getId(), savedFeedback.getName(), savedFeedback.getMessage());
+            FeedbackResponse response = new FeedbackResponse(
+                    savedFeedback.getId(),
+                    savedFeedback.getName(),
+                    savedFeedback.getMessage()
+            );
+            eventPublisher.publishEvent(new FeedbackSubmittedEvent(response));
 
-        return new FeedbackResponse(
-                savedFeedback.getId(),
-                savedFeedback.getName(),
-                savedFeedback.getMessage()
-        );
+            return response;
+        } finally {
+            submitPhase.finish();
+        }
     }
 
     /**
@@ -0,0 +1,350 @@
+package com.example.feedback.service;
+
+import com.example.feedback.service.FeedbackEventBuffer.Entry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans out newly submitted feedback to Server-Sent Events subscribers.
+ * <p>
+ * Submitted feedback is rendered to JSON once and written into the shared {@link FeedbackEventBuffer}; each subscriber
+ * only holds a cursor into it. Delivery runs on a small pool and a subscriber is drained by at most
+ * one task at a time, so a slow client never queues events of its own: it simply catches up from its
+ * cursor on its next turn and is skipped ahead if the buffer has wrapped past it.
+ * <p>
+ * Servlet writes block, so a client that stops reading would otherwise hold a dispatcher thread until
+ * the container's write timeout. A watchdog drops any subscriber whose send has been in progress for
+ * longer than {@code feedback.stream.send-timeout-ms} and adds a replacement dispatcher thread while
+ * the stuck one waits for the container to give up. Idle subscribers get a periodic keep-alive comment
+ * so that dead connections are detected and proxies do not cut healthy streams.
+ */
+@Service
+public class FeedbackStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackStreamService.class);
+    private static final String EVENT_NAME = "feedback";
+    private static final String HEARTBEAT_COMMENT = "keep-alive";
+    private static final int BATCH_SIZE = 64;
+    private static final long WATCHDOG_INTERVAL_MILLIS = 1000;
+    private static final long NOT_SENDING = 0;
+    private static final long EVICTED = -1;
+    private static final long EVICTED_COMPENSATED = -2;
+
+    private final FeedbackEventBuffer buffer;
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int dispatcherThreads;
+    private final int maxStalledSends;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicBoolean fanOutPending = new AtomicBoolean();
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService scheduler;
+    private final long originNanos = System.nanoTime();
+    private int stalledSends;
+
+    public FeedbackStreamService(FeedbackEventBuffer buffer,
+                                 ObjectMapper objectMapper,
+                                 @Value("${feedback.stream.max-subscribers:5000}") int maxSubscribers,
+                                 @Value("${feedback.stream.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${feedback.stream.dispatcher-threads:4}") int dispatcherThreads,
+                                 @Value("${feedback.stream.max-stalled-sends:64}") int maxStalledSends,
+                                 @Value("${feedback.stream.send-timeout-ms:5000}") long sendTimeoutMillis,
+                                 @Value("${feedback.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis) {
+        this.buffer = buffer;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.dispatcherThreads = dispatcherThreads;
+        this.maxStalledSends = maxStalledSends;
+        // At most one queued drain task per subscriber plus one fan-out task, so the queue is bounded by max-subscribers
+        this.dispatcher = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("feedback-stream-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("feedback-stream-watchdog-"));
+        scheduler.scheduleWithFixedDelay(this::evictStalledSubscribers,
+                WATCHDOG_INTERVAL_MILLIS, WATCHDOG_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers a new SSE subscriber.
+     * <p>
+     * Without a usable {@code lastEventId} the subscriber only receives feedback submitted from now on.
+     * With one, every event after it that is still held in the buffer is replayed first; an id issued
+     * before a restart or by another node replays the whole buffer (see {@link FeedbackEventBuffer#resumeCursor}).
+     *
+     * @param lastEventId the value of the client's {@code Last-Event-ID} header, or {@code null}
+     * @return the emitter bound to the subscriber's connection
+     * @throws ResponseStatusException if the node already serves the maximum number of subscribers
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (connected.incrementAndGet() > maxSubscribers) {
+            connected.decrementAndGet();
+            logger.warn("Rejecting stream subscription: {} subscribers already connected", maxSubscribers);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many stream subscribers");
+        }
+
+        long cursor = buffer.resumeCursor(lastEventId);
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(() -> release(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        logger.debug("Stream subscriber registered at cursor {}, {} connected", cursor, connected.get());
+
+        if (cursor < buffer.head()) {
+            schedule(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * Publishes persisted feedback to all subscribers once the surrounding transaction, if any, has committed.
+     * <p>
+     * Without a transaction this runs on the submitting request thread, so it only appends to the buffer
+     * and leaves waking the subscribers to the dispatcher.
+     *
+     * @param event the event carrying the persisted feedback
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackSubmitted(FeedbackSubmittedEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.feedback());
+        } catch (JsonProcessingException ex) {
+            // The feedback is already saved; failing here would turn a successful submit into an error
+            logger.error("Unable to publish feedback id={} to the stream", event.feedback().getId(), ex);
+            return;
+        }
+        long sequence = buffer.publish(data);
+        logger.debug("Published feedback id={} as stream event {}", event.feedback().getId(), sequence);
+        requestFanOut();
+    }
+
+    /**
+     * @return the number of currently connected subscribers
+     */
+    public int subscriberCount() {
+        return connected.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            remove(subscriber);
+        }
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Drops every subscriber whose current send has been blocked for longer than the send timeout.
+     * <p>
+     * The stuck dispatcher thread cannot be interrupted out of a servlet write, so a replacement thread is
+     * added until the write fails, up to {@code feedback.stream.max-stalled-sends} extra threads.
+     */
+    void evictStalledSubscribers() {
+        long now = elapsedNanos();
+        for (Subscriber subscriber : subscribers) {
+            long sendStarted = subscriber.sendStarted.get();
+            if (sendStarted <= NOT_SENDING || now - sendStarted <= sendTimeoutNanos) {
+                continue;
+            }
+            // Claim the stuck send before releasing the subscriber, so the sender knows whether to give the thread back
+            boolean compensated = addStalledThread();
+            if (subscriber.sendStarted.compareAndSet(sendStarted, compensated ? EVICTED_COMPENSATED : EVICTED)) {
+                release(subscriber);
+                logger.warn("Dropping stream subscriber: send blocked for more than {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            } else if (compensated) {
+                removeStalledThread();
+            }
+        }
+    }
+
+    /**
+     * Queues a keep-alive comment for every subscriber; a failed write removes the subscriber.
+     */
+    void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    private void requestFanOut() {
+        // A fan-out that has not started yet will see the entry just published
+        if (!fanOutPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(this::fanOut);
+        } catch (RejectedExecutionException ex) {
+            // Only happens once the dispatcher has been shut down
+            fanOutPending.set(false);
+        }
+    }
+
+    private void fanOut() {
+        // Cleared before the loop so a publish racing with it queues another pass instead of being missed
+        fanOutPending.set(false);
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        // A subscriber already being drained will pick up the new event before it releases the flag
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException ex) {
+            // Only happens once the dispatcher has been shut down
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            List<Entry> entries;
+            while (subscribers.contains(subscriber)
+                    && !(entries = buffer.readAfter(subscriber.cursor, BATCH_SIZE)).isEmpty()) {
+                long skipped = entries.get(0).sequence() - subscriber.cursor - 1;
+                if (skipped > 0) {
+                    logger.debug("Slow stream subscriber skipped ahead past {} events", skipped);
+                }
+                for (Entry entry : entries) {
+                    send(subscriber, SseEmitter.event()
+                            .id(buffer.eventId(entry.sequence()))
+                            .name(EVENT_NAME)
+                            .data(entry.data()));
+                    subscriber.cursor = entry.sequence();
+                }
+            }
+            if (subscriber.heartbeatDue && subscribers.contains(subscriber)) {
+                subscriber.heartbeatDue = false;
+                send(subscriber, SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            logger.debug("Stream subscriber disconnected: {}", ex.getMessage());
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (!subscribers.contains(subscriber)) {
+            // Evicted by the watchdog while this send was blocked
+            subscriber.emitter.complete();
+            return;
+        }
+        // An event published between the last read and releasing the flag would otherwise wait for the next publish
+        if (subscriber.cursor < buffer.head()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStarted.set(elapsedNanos());
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            if (subscriber.sendStarted.getAndSet(NOT_SENDING) == EVICTED_COMPENSATED) {
+                removeStalledThread();
+            }
+        }
+    }
+
+    // Always positive, so it never collides with the NOT_SENDING and EVICTED markers
+    private long elapsedNanos() {
+        return System.nanoTime() - originNanos + 1;
+    }
+
+    private synchronized boolean addStalledThread() {
+        if (stalledSends >= maxStalledSends) {
+            return false;
+        }
+        stalledSends++;
+        dispatcher.setMaximumPoolSize(dispatcherThreads + stalledSends);
+        dispatcher.setCorePoolSize(dispatcherThreads + stalledSends);
+        return true;
+    }
+
+    private synchronized void removeStalledThread() {
+        stalledSends--;
+        dispatcher.setCorePoolSize(dispatcherThreads + stalledSends);
+        dispatcher.setMaximumPoolSize(dispatcherThreads + stalledSends);
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (release(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean release(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            connected.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long cursor;
+        private final AtomicLong sendStarted = new AtomicLong(NOT_SENDING);
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
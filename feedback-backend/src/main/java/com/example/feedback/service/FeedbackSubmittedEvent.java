@@ -0,0 +1,11 @@
+package com.example.feedback.service;
+
+import com.example.feedback.dto.FeedbackResponse;
+
+/**
+ * Application event published once a feedback entry has been persisted.
+ *
+ * @param feedback the persisted feedback as returned to the client
+ */
+public record FeedbackSubmittedEvent(FeedbackResponse feedback) {
+}
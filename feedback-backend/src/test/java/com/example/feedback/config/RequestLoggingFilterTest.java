@@ -0,0 +1,98 @@
+package com.example.feedback.config;
+
+import com.example.feedback.jfr.JfrTestRecordings;
+import com.example.feedback.jfr.RequestEvent;
+import com.example.feedback.jfr.RequestIds;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLoggingFilterTest {
+
+    private final RequestLoggingFilter filter = new RequestLoggingFilter();
+
+    @Test
+    void doFilter_shouldUseAndEchoClientRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/feedbacks");
+        request.addHeader(RequestIds.HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> requestIdInChain = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> requestIdInChain.set(MDC.get(RequestIds.MDC_KEY)));
+
+        assertEquals("abc-123", requestIdInChain.get());
+        assertEquals("abc-123", response.getHeader(RequestIds.HEADER));
+        assertNull(MDC.get(RequestIds.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_shouldGenerateRequestIdWhenMissing() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/feedbacks/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> requestIdInChain = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> requestIdInChain.set(MDC.get(RequestIds.MDC_KEY)));
+
+        assertNotNull(requestIdInChain.get());
+        assertEquals(requestIdInChain.get(), response.getHeader(RequestIds.HEADER));
+        assertNull(MDC.get(RequestIds.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_shouldClearMdcWhenChainFails() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/feedbacks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, (req, res) -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertNull(MDC.get(RequestIds.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_shouldNotRecordRequestEventForAsyncRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/feedbacks/stream");
+        request.setAsyncSupported(true);
+        request.addHeader(RequestIds.HEADER, "async-test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        List<RecordedEvent> events = JfrTestRecordings.record(RequestEvent.NAME, "async-test",
+                () -> filter.doFilter(request, response, (req, res) -> req.startAsync()));
+
+        assertTrue(events.isEmpty());
+        assertNull(MDC.get(RequestIds.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_shouldRecordRequestEventWithFilterTime() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/feedbacks");
+        request.addHeader(RequestIds.HEADER, "filter-test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        List<RecordedEvent> events = JfrTestRecordings.record(RequestEvent.NAME, "filter-test",
+                () -> filter.doFilter(request, response, (req, res) -> {
+                    response.setStatus(201);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("POST", event.getString("method"));
+        assertEquals("/api/feedbacks", event.getString("path"));
+        assertEquals(201, event.getInt("status"));
+        assertTrue(event.getDuration("filterTime").compareTo(event.getDuration()) < 0);
+        assertTrue(event.getDuration().toMillis() >= 20);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.feedback.controller;
 import com.example.feedback.dto.FeedbackRequest;
 import com.example.feedback.dto.FeedbackResponse;
 import com.example.feedback.service.FeedbackService;
+import com.example.feedback.service.FeedbackStreamService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +11,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,6 +28,9 @@ class FeedbackControllerTest {
     @MockBean
     private FeedbackService feedbackService;
 
+    @MockBean
+    private FeedbackStreamService feedbackStreamService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -86,4 +92,26 @@ class FeedbackControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("Invalid email format"));
     }
+
+    @Test
+    void streamFeedbacks_shouldResumeFromLastEventId() throws Exception {
+        Mockito.when(feedbackStreamService.subscribe("1700000000000-5")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/feedbacks/stream")
+                        .header("Last-Event-ID", "1700000000000-5")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        Mockito.verify(feedbackStreamService).subscribe("1700000000000-5");
+    }
+
+    @Test
+    void streamFeedbacks_shouldPassThroughNonNumericLastEventId() throws Exception {
+        Mockito.when(feedbackStreamService.subscribe("not-an-id")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/feedbacks/stream")
+                        .header("Last-Event-ID", "not-an-id")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
 }
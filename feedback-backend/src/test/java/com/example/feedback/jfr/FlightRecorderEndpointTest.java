@@ -0,0 +1,62 @@
+package com.example.feedback.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FlightRecorderEndpointTest {
+
+    @Mock
+    private FlightRecorderService flightRecorderService;
+
+    @InjectMocks
+    private FlightRecorderEndpoint endpoint;
+
+    @Test
+    public void control_shouldRejectUnknownAction() {
+        // Actuator maps InvalidEndpointRequestException to 400 Bad Request
+        InvalidEndpointRequestException exception = assertThrows(InvalidEndpointRequestException.class,
+                () -> endpoint.control("restart"));
+
+        assertEquals("Unknown action", exception.getReason());
+        verifyNoInteractions(flightRecorderService);
+    }
+
+    @Test
+    public void control_shouldRejectDumpWithoutRecording() throws Exception {
+        when(flightRecorderService.dump()).thenThrow(new IllegalStateException("No JFR recording has been started"));
+
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("dump"));
+    }
+
+    @Test
+    public void control_shouldReturnDumpedFile() throws Exception {
+        when(flightRecorderService.dump()).thenReturn(Path.of("/tmp/feedback-jfr/feedback-app.jfr"));
+        when(flightRecorderService.status()).thenReturn(new HashMap<>(Map.of("state", "STOPPED")));
+
+        Map<String, Object> result = endpoint.control("dump");
+
+        assertEquals("STOPPED", result.get("state"));
+        assertEquals(Path.of("/tmp/feedback-jfr/feedback-app.jfr").toString(), result.get("file"));
+    }
+
+    @Test
+    public void control_shouldDelegateStartAndStop() throws Exception {
+        endpoint.control("start");
+        endpoint.control("stop");
+
+        verify(flightRecorderService).start();
+        verify(flightRecorderService).stop();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.feedback.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderServiceTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecorderService flightRecorderService;
+
+    @BeforeEach
+    void createService() {
+        flightRecorderService = service("default");
+    }
+
+    @AfterEach
+    void shutdown() {
+        flightRecorderService.shutdown();
+    }
+
+    @Test
+    public void dump_shouldFailBeforeStart() {
+        assertEquals("NOT_STARTED", flightRecorderService.status().get("state"));
+        assertThrows(IllegalStateException.class, () -> flightRecorderService.dump());
+    }
+
+    @Test
+    public void startStopDump_shouldKeepDataAfterStop() throws Exception {
+        assertEquals("RUNNING", flightRecorderService.start().get("state"));
+        assertEquals("STOPPED", flightRecorderService.stop().get("state"));
+
+        Path file = flightRecorderService.dump();
+
+        assertTrue(Files.exists(file));
+        assertTrue(Files.size(file) > 0);
+        assertEquals("STOPPED", flightRecorderService.status().get("state"));
+    }
+
+    @Test
+    public void start_shouldReplaceStoppedRecording() {
+        flightRecorderService.start();
+        flightRecorderService.stop();
+
+        assertEquals("RUNNING", flightRecorderService.start().get("state"));
+    }
+
+    @Test
+    public void dump_shouldKeepOnlyNewestDumps() throws Exception {
+        flightRecorderService.start();
+
+        flightRecorderService.dump();
+        Thread.sleep(5);
+        flightRecorderService.dump();
+        Thread.sleep(5);
+        Path latest = flightRecorderService.dump();
+
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            assertEquals(2, files.count());
+        }
+        assertTrue(Files.exists(latest));
+    }
+
+    @Test
+    public void start_shouldFailForUnknownSettings() {
+        flightRecorderService = service("no-such-settings");
+
+        assertThrows(IllegalStateException.class, () -> flightRecorderService.start());
+        assertEquals("NOT_STARTED", flightRecorderService.status().get("state"));
+    }
+
+    private FlightRecorderService service(String settings) {
+        return new FlightRecorderService(false, settings, Duration.ofMinutes(1), DataSize.ofMegabytes(10), dumpDirectory, 2);
+    }
+}
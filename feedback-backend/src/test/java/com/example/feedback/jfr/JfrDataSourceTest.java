@@ -0,0 +1,48 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JfrDataSourceTest {
+
+    @Test
+    public void getConnection_shouldRecordConnectionAcquireEvent() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        JfrDataSource dataSource = new JfrDataSource(target);
+
+        List<RecordedEvent> events = JfrTestRecordings.record(ConnectionAcquireEvent.NAME, "acquire-test",
+                () -> assertSame(connection, dataSource.getConnection()));
+
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void close_shouldCloseTargetPool() throws Exception {
+        DataSource target = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+
+        new JfrDataSource(target).close();
+
+        verify((AutoCloseable) target).close();
+    }
+
+    @Test
+    public void postProcessor_shouldWrapDataSourcesOnce() {
+        JfrDataSourcePostProcessor postProcessor = new JfrDataSourcePostProcessor();
+        DataSource target = mock(DataSource.class);
+
+        Object wrapped = postProcessor.postProcessAfterInitialization(target, "dataSource");
+
+        assertInstanceOf(JfrDataSource.class, wrapped);
+        assertSame(wrapped, postProcessor.postProcessAfterInitialization(wrapped, "dataSource"));
+        assertSame("notADataSource", postProcessor.postProcessAfterInitialization("notADataSource", "other"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrPhaseAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void clearMdc() {
+        MDC.remove(RequestIds.MDC_KEY);
+    }
+
+    @Test
+    public void analyze_shouldSummarizePhasesAndErrors() throws Exception {
+        Path file = tempDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestEvent.NAME);
+            recording.enable(FeedbackPhaseEvent.NAME);
+            recording.enable(ExceptionHandledEvent.NAME);
+            recording.enable(ConnectionAcquireEvent.NAME);
+            recording.start();
+
+            MDC.put(RequestIds.MDC_KEY, "req-1");
+            RequestEvent request = new RequestEvent();
+            request.begin();
+            FeedbackPhaseEvent.start(FeedbackPhaseEvent.VALIDATE).finish();
+            FeedbackPhaseEvent.start(FeedbackPhaseEvent.SAVE).finish();
+            FeedbackPhaseEvent save = FeedbackPhaseEvent.start(FeedbackPhaseEvent.SAVE);
+            ConnectionAcquireEvent acquire = new ConnectionAcquireEvent();
+            acquire.begin();
+            Thread.sleep(20);
+            acquire.end();
+            acquire.requestId = "req-1";
+            acquire.commit();
+            save.finish();
+            ExceptionHandledEvent.record(new IllegalStateException("boom"), 500);
+            request.end();
+            request.method = "POST";
+            request.path = "/api/feedbacks";
+            request.filterTime = 1_000_000;
+            request.commit();
+
+            RequestEvent otherRequest = new RequestEvent();
+            otherRequest.method = "GET";
+            otherRequest.path = "/api/feedbacks/stream";
+            otherRequest.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        JfrPhaseAnalyzer.Summary summary = JfrPhaseAnalyzer.analyze(file);
+
+        assertEquals(1, summary.latencies().get(JfrPhaseAnalyzer.REQUEST_KEY_PREFIX + "POST /api/feedbacks").count());
+        assertEquals(1, summary.latencies().get(JfrPhaseAnalyzer.REQUEST_KEY_PREFIX + "GET /api/feedbacks/stream").count());
+        assertEquals(1, summary.latencies().get(JfrPhaseAnalyzer.PHASE_KEY_PREFIX + FeedbackPhaseEvent.VALIDATE).count());
+        assertEquals(2, summary.latencies().get(JfrPhaseAnalyzer.PHASE_KEY_PREFIX + FeedbackPhaseEvent.SAVE).count());
+        assertEquals(1, summary.latencies().get(JfrPhaseAnalyzer.CONNECTION_ACQUIRE_KEY).count());
+        assertEquals(1, summary.latencies().get(JfrPhaseAnalyzer.FILTER_KEY_PREFIX + "POST /api/feedbacks").count());
+        assertEquals(1_000_000, summary.latencies().get(JfrPhaseAnalyzer.FILTER_KEY_PREFIX + "POST /api/feedbacks").max().toNanos());
+        assertEquals(1, summary.errors().get("java.lang.IllegalStateException (500)"));
+        assertTrue(summary.format().contains("phase:save"));
+    }
+
+    @Test
+    public void analyze_shouldReportSaveWithoutConnectionAcquire() throws Exception {
+        Path file = tempDir.resolve("save.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FeedbackPhaseEvent.NAME);
+            recording.enable(ConnectionAcquireEvent.NAME);
+            recording.start();
+
+            MDC.put(RequestIds.MDC_KEY, "req-2");
+            FeedbackPhaseEvent save = FeedbackPhaseEvent.start(FeedbackPhaseEvent.SAVE);
+            ConnectionAcquireEvent acquire = new ConnectionAcquireEvent();
+            acquire.begin();
+            Thread.sleep(50);
+            acquire.end();
+            acquire.requestId = "req-2";
+            acquire.commit();
+            save.finish();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        JfrPhaseAnalyzer.Summary summary = JfrPhaseAnalyzer.analyze(file);
+
+        JfrPhaseAnalyzer.LatencyStats total = summary.latencies().get(JfrPhaseAnalyzer.PHASE_KEY_PREFIX + FeedbackPhaseEvent.SAVE);
+        JfrPhaseAnalyzer.LatencyStats database = summary.latencies().get(JfrPhaseAnalyzer.SAVE_EXCLUDING_CONNECTION_KEY);
+        JfrPhaseAnalyzer.LatencyStats acquired = summary.latencies().get(JfrPhaseAnalyzer.CONNECTION_ACQUIRE_KEY);
+        assertEquals(1, database.count());
+        assertEquals(total.max().minus(acquired.max()), database.max());
+        assertTrue(database.max().toMillis() < 50);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.MDC;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records Flight Recorder events emitted while running test code.
+ */
+public final class JfrTestRecordings {
+
+    private JfrTestRecordings() {
+    }
+
+    /**
+     * Runs the action with the given request id in the MDC and returns the events of the given type it emitted.
+     * <p>
+     * Events are filtered by request id, so events from other recordings running in the same JVM are ignored.
+     */
+    public static List<RecordedEvent> record(String eventName, String requestId, Action action) throws Exception {
+        Path file = Files.createTempFile("feedback-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            MDC.put(RequestIds.MDC_KEY, requestId);
+            try {
+                action.run();
+            } finally {
+                MDC.remove(RequestIds.MDC_KEY);
+                recording.stop();
+            }
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .filter(event -> requestId.equals(event.getString("requestId")))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.feedback.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestIdsTest {
+
+    @AfterEach
+    void clearMdc() {
+        MDC.remove(RequestIds.MDC_KEY);
+    }
+
+    @Test
+    public void resolve_shouldKeepValidHeaderAndReplaceInvalidOne() {
+        assertEquals("abc-123", RequestIds.resolve("abc-123"));
+        assertNotEquals("bad id\n", RequestIds.resolve("bad id\n"));
+        assertNotEquals("x".repeat(65), RequestIds.resolve("x".repeat(65)));
+        assertFalse(RequestIds.resolve(null).isBlank());
+    }
+
+    @Test
+    public void current_shouldFallBackOutsideRequest() {
+        assertEquals("N/A", RequestIds.current());
+        MDC.put(RequestIds.MDC_KEY, "req-2");
+        assertEquals("req-2", RequestIds.current());
+    }
+}
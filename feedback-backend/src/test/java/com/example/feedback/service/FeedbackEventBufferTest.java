@@ -0,0 +1,110 @@
+package com.example.feedback.service;
+
+import com.example.feedback.service.FeedbackEventBuffer.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeedbackEventBufferTest {
+
+    @Test
+    public void publish_shouldAssignIncreasingSequences() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(4);
+
+        assertEquals(0, buffer.head());
+        assertEquals(1, buffer.publish(feedback(1L)));
+        assertEquals(2, buffer.publish(feedback(2L)));
+        assertEquals(2, buffer.head());
+    }
+
+    @Test
+    public void readAfter_shouldReturnEntriesAfterCursor() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(4);
+        buffer.publish(feedback(1L));
+        buffer.publish(feedback(2L));
+        buffer.publish(feedback(3L));
+
+        List<Entry> entries = buffer.readAfter(1, 10);
+
+        assertEquals(2, entries.size());
+        assertEquals(2, entries.get(0).sequence());
+        assertEquals(feedback(2L), entries.get(0).data());
+        assertEquals(3, entries.get(1).sequence());
+        assertTrue(buffer.readAfter(3, 10).isEmpty());
+    }
+
+    @Test
+    public void readAfter_shouldRespectMaxEntries() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(4);
+        buffer.publish(feedback(1L));
+        buffer.publish(feedback(2L));
+        buffer.publish(feedback(3L));
+
+        List<Entry> entries = buffer.readAfter(0, 2);
+
+        assertEquals(2, entries.size());
+        assertEquals(1, entries.get(0).sequence());
+        assertEquals(2, entries.get(1).sequence());
+    }
+
+    @Test
+    public void readAfter_shouldSkipAheadWhenCursorWasOverwritten() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(3);
+        for (long id = 1; id <= 5; id++) {
+            buffer.publish(feedback(id));
+        }
+
+        List<Entry> entries = buffer.readAfter(0, 10);
+
+        assertEquals(3, buffer.oldestSequence());
+        assertEquals(3, entries.size());
+        assertEquals(3, entries.get(0).sequence());
+        assertEquals(5, entries.get(2).sequence());
+    }
+
+    @Test
+    public void resumeCursor_shouldUseSequenceFromSameEpoch() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(4);
+        buffer.publish(feedback(1L));
+        buffer.publish(feedback(2L));
+        buffer.publish(feedback(3L));
+
+        assertEquals(buffer.epoch() + "-2", buffer.eventId(2));
+        assertEquals(2, buffer.resumeCursor(buffer.eventId(2)));
+        assertEquals(3, buffer.resumeCursor(buffer.epoch() + "-900"));
+    }
+
+    @Test
+    public void resumeCursor_shouldReplayBufferForForeignEpoch() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(3);
+        for (long id = 1; id <= 5; id++) {
+            buffer.publish(feedback(id));
+        }
+
+        assertEquals(2, buffer.resumeCursor((buffer.epoch() - 1) + "-900"));
+        assertEquals(2, buffer.resumeCursor((buffer.epoch() - 1) + "-1"));
+    }
+
+    @Test
+    public void resumeCursor_shouldStartAtHeadWithoutUsableId() {
+        FeedbackEventBuffer buffer = new FeedbackEventBuffer(4);
+        buffer.publish(feedback(1L));
+        buffer.publish(feedback(2L));
+
+        assertEquals(2, buffer.resumeCursor(null));
+        assertEquals(2, buffer.resumeCursor("5"));
+        assertEquals(2, buffer.resumeCursor("abc"));
+        assertEquals(2, buffer.resumeCursor("1-"));
+    }
+
+    @Test
+    public void constructor_shouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedbackEventBuffer(0));
+    }
+
+    private String feedback(Long id) {
+        return "{\"id\":" + id + "}";
+    }
+}
@@ -2,15 +2,22 @@ package com.example.feedback.service;
 
 import com.example.feedback.dto.FeedbackRequest;
 import com.example.feedback.dto.FeedbackResponse;
+import com.example.feedback.jfr.FeedbackPhaseEvent;
+import com.example.feedback.jfr.JfrTestRecordings;
 import com.example.feedback.model.Feedback;
 import com.example.feedback.repository.FeedbackRepository;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -20,6 +27,9 @@ public class FeedbackServiceImplTest {
     @Mock
     private FeedbackRepository feedbackRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private FeedbackServiceImpl feedbackService;
 
@@ -43,6 +53,7 @@ public class FeedbackServiceImplTest {
         assertEquals("Great app!", response.getMessage());
 
         verify(feedbackRepository, times(1)).save(any(Feedback.class));
+        verify(eventPublisher, times(1)).publishEvent(any(FeedbackSubmittedEvent.class));
     }
 
     @Test
@@ -68,6 +79,7 @@ public class FeedbackServiceImplTest {
 
         assertEquals("DB error", exception.getMessage());
         verify(feedbackRepository, times(1)).save(any(Feedback.class));
+        verify(eventPublisher, never()).publishEvent(any(FeedbackSubmittedEvent.class));
     }
 
     @Test
@@ -92,4 +104,35 @@ public class FeedbackServiceImplTest {
         FeedbackRequest request = new FeedbackRequest("Vishal Pareek", "Message", "vishal@example.com");
         assertDoesNotThrow(() -> feedbackService.validateFeedback(request, "vi***@example.com"));
     }
+
+    @Test
+    public void submitFeedback_shouldRecordPhaseEvents() throws Exception {
+        FeedbackRequest request = new FeedbackRequest("Vishal", "Great app!", "vishal@example.com");
+        Feedback savedFeedback = new Feedback("Vishal", "vishal@example.com", "Great app!");
+        savedFeedback.setId(1L);
+        when(feedbackRepository.save(any(Feedback.class))).thenReturn(savedFeedback);
+
+        List<RecordedEvent> events = JfrTestRecordings.record(FeedbackPhaseEvent.NAME, "submit-ok",
+                () -> feedbackService.submitFeedback(request));
+
+        assertEquals(List.of(FeedbackPhaseEvent.SAVE, FeedbackPhaseEvent.SUBMIT, FeedbackPhaseEvent.VALIDATE), phases(events));
+    }
+
+    @Test
+    public void submitFeedback_shouldRecordPhaseEventsWhenValidationFails() throws Exception {
+        FeedbackRequest request = new FeedbackRequest("Vishal12345", "Message", "vishal@example.com");
+
+        List<RecordedEvent> events = JfrTestRecordings.record(FeedbackPhaseEvent.NAME, "submit-invalid",
+                () -> assertThrows(ResponseStatusException.class, () -> feedbackService.submitFeedback(request)));
+
+        assertEquals(List.of(FeedbackPhaseEvent.SUBMIT, FeedbackPhaseEvent.VALIDATE), phases(events));
+        verify(feedbackRepository, never()).save(any());
+    }
+
+    private List<String> phases(List<RecordedEvent> events) {
+        return events.stream()
+                .map(event -> event.getString("phase"))
+                .sorted()
+                .collect(Collectors.toList());
+    }
 }
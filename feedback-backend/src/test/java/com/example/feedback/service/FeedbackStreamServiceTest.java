@@ -0,0 +1,288 @@
+package com.example.feedback.service;
+
+import com.example.feedback.dto.FeedbackResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeedbackStreamServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:\\d+-(\\d+)");
+
+    private final Deque<TestEmitter> emitters = new ArrayDeque<>();
+    private FeedbackEventBuffer buffer;
+    private FeedbackStreamService streamService;
+
+    @AfterEach
+    void shutdown() {
+        if (streamService != null) {
+            streamService.shutdown();
+        }
+    }
+
+    @Test
+    public void subscribe_withoutLastEventId_shouldOnlyReceiveNewEvents() throws Exception {
+        createService(8, 10, 2, 5000);
+        publish(1L);
+        TestEmitter emitter = subscribe(null);
+
+        publish(2L);
+
+        await(() -> emitter.eventIds().size() == 1);
+        assertEquals(List.of(2L), emitter.eventIds());
+    }
+
+    @Test
+    public void subscribe_withLastEventId_shouldReplayFromBuffer() throws Exception {
+        createService(8, 10, 2, 5000);
+        publish(1L);
+        publish(2L);
+        publish(3L);
+
+        TestEmitter emitter = subscribe(buffer.eventId(1));
+
+        await(() -> emitter.eventIds().size() == 2);
+        assertEquals(List.of(2L, 3L), emitter.eventIds());
+    }
+
+    @Test
+    public void publish_shouldSendFeedbackAsJson() throws Exception {
+        createService(8, 10, 2, 5000);
+        TestEmitter emitter = subscribe(null);
+
+        publish(7L);
+
+        await(() -> emitter.eventIds().size() == 1);
+        assertTrue(emitter.sent.get(0).contains("data:{\"id\":7,\"name\":\"Vishal\",\"message\":\"Message 7\"}"));
+    }
+
+    @Test
+    public void subscribe_withOverwrittenLastEventId_shouldSkipAhead() throws Exception {
+        createService(2, 10, 2, 5000);
+        for (long id = 1; id <= 4; id++) {
+            publish(id);
+        }
+
+        TestEmitter emitter = subscribe(buffer.eventId(0));
+
+        await(() -> emitter.eventIds().size() == 2);
+        assertEquals(List.of(3L, 4L), emitter.eventIds());
+    }
+
+    @Test
+    public void subscribe_withIdFromAnotherEpoch_shouldReplayWholeBuffer() throws Exception {
+        createService(8, 10, 2, 5000);
+        publish(1L);
+        publish(2L);
+
+        // A client that saw event 900 before a restart must not skip the events published since
+        TestEmitter emitter = subscribe((buffer.epoch() - 1) + "-900");
+
+        await(() -> emitter.eventIds().size() == 2);
+        assertEquals(List.of(1L, 2L), emitter.eventIds());
+        assertTrue(emitter.sent.get(0).contains("id:" + buffer.eventId(1)));
+    }
+
+    @Test
+    public void subscribe_withUnparseableId_shouldStartFresh() throws Exception {
+        createService(8, 10, 2, 5000);
+        publish(1L);
+        TestEmitter emitter = subscribe("not-an-id");
+
+        publish(2L);
+
+        await(() -> emitter.eventIds().size() == 1);
+        assertEquals(List.of(2L), emitter.eventIds());
+    }
+
+    @Test
+    public void subscribe_shouldRejectWhenSubscriberLimitReached() {
+        createService(8, 2, 2, 5000);
+        subscribe(null);
+        subscribe(null);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> subscribe(null));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals(2, streamService.subscriberCount());
+    }
+
+    @Test
+    public void failedSend_shouldRemoveSubscriber() throws Exception {
+        createService(8, 10, 2, 5000);
+        TestEmitter emitter = subscribe(null);
+        emitter.failure = new IOException("Broken pipe");
+
+        publish(1L);
+
+        await(() -> streamService.subscriberCount() == 0);
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    public void emitterCallbacks_shouldReleaseSubscriber() {
+        createService(8, 10, 2, 5000);
+        TestEmitter completed = subscribe(null);
+        TestEmitter timedOut = subscribe(null);
+        TestEmitter failed = subscribe(null);
+        assertEquals(3, streamService.subscriberCount());
+
+        completed.completionCallback.run();
+        timedOut.timeoutCallback.run();
+        failed.errorCallback.accept(new IOException("Connection reset"));
+
+        assertEquals(0, streamService.subscriberCount());
+        assertTrue(timedOut.completed);
+        assertTrue(failed.completed);
+    }
+
+    @Test
+    public void stalledSend_shouldDropSubscriberWithoutBlockingOthers() throws Exception {
+        createService(8, 10, 1, 50);
+        TestEmitter stalled = subscribe(null);
+        CountDownLatch unblock = new CountDownLatch(1);
+        stalled.blockUntil = unblock;
+        publish(1L);
+        await(() -> stalled.sendsStarted > 0);
+
+        TestEmitter healthy = subscribe(null);
+        publish(2L);
+        Thread.sleep(100);
+        streamService.evictStalledSubscribers();
+
+        await(() -> healthy.eventIds().contains(2L));
+        assertEquals(1, streamService.subscriberCount());
+
+        unblock.countDown();
+        await(() -> stalled.completed);
+    }
+
+    @Test
+    public void heartbeat_shouldSendCommentAndRemoveDeadSubscribers() throws Exception {
+        createService(8, 10, 2, 5000);
+        TestEmitter alive = subscribe(null);
+        TestEmitter dead = subscribe(null);
+        dead.failure = new IOException("Broken pipe");
+
+        streamService.sendHeartbeats();
+
+        await(() -> alive.sent.stream().anyMatch(text -> text.contains(":keep-alive")));
+        await(() -> streamService.subscriberCount() == 1);
+    }
+
+    private void createService(int bufferSize, int maxSubscribers, int dispatcherThreads, long sendTimeoutMillis) {
+        buffer = new FeedbackEventBuffer(bufferSize);
+        streamService = new FeedbackStreamService(buffer, new ObjectMapper(), maxSubscribers, 60_000, dispatcherThreads, 4,
+                sendTimeoutMillis, 60_000) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                TestEmitter emitter = new TestEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private TestEmitter subscribe(String lastEventId) {
+        streamService.subscribe(lastEventId);
+        return emitters.getLast();
+    }
+
+    private void publish(Long id) {
+        streamService.onFeedbackSubmitted(new FeedbackSubmittedEvent(new FeedbackResponse(id, "Vishal", "Message " + id)));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for condition");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Emitter that records sent events instead of writing to a response, and can be made to block or fail.
+     */
+    private static class TestEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile IOException failure;
+        private volatile CountDownLatch blockUntil;
+        private volatile int sendsStarted;
+        private volatile boolean completed;
+        private Runnable completionCallback;
+        private Runnable timeoutCallback;
+        private Consumer<Throwable> errorCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendsStarted++;
+            CountDownLatch latch = blockUntil;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String data) {
+                    text.append(data);
+                }
+            }
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            errorCallback = callback;
+        }
+
+        private List<Long> eventIds() {
+            return sent.stream()
+                    .map(EVENT_ID::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .collect(Collectors.toList());
+        }
+    }
+}